@@ -1,5 +1,5 @@
 import {Injectable} from '@angular/core';
-import {RxStomp} from '@stomp/rx-stomp';
+import {IMessage, RxStomp} from '@stomp/rx-stomp';
 
 @Injectable({
   providedIn: 'root',
@@ -14,8 +14,16 @@ export class GameSocketService extends RxStomp {
     const host = window.location.host;
     this.configure({
       brokerURL: `${proto}://${host}/brightcast-websocket`,
+      connectHeaders: {'accept-encoding': 'deflate'},
       reconnectDelay: 200,
     });
     this.activate();
   }
+
+  // Bodies over the server's brightcast.websocket.compression.min-bytes arrive as raw DEFLATE.
+  public readBody(message: IMessage): Promise<string> {
+    if (message.headers['content-encoding'] !== 'deflate') return Promise.resolve(message.body);
+    const inflated = new Blob([new Uint8Array(message.binaryBody)]).stream().pipeThrough(new DecompressionStream('deflate-raw'));
+    return new Response(inflated).text();
+  }
 }
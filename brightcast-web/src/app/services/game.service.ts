@@ -1,6 +1,6 @@
 import { Injectable, NgZone } from '@angular/core';
 import { HttpClient } from '@angular/common/http';
-import { BehaviorSubject } from 'rxjs';
+import { BehaviorSubject, concatMap } from 'rxjs';
 import { GameState } from '../models/game.models';
 import { GameSocketService } from './game-socket.service';
 
@@ -21,8 +21,10 @@ export class GameService {
   }
 
   subscribeToGameUpdates(gameId: string): void {
-    this.socket.watch(`/topic/game/${gameId}`).subscribe(message => {
-      const updatedGame: GameState = JSON.parse(message.body);
+    this.socket.watch(`/topic/game/${gameId}`).pipe(
+      concatMap(message => this.socket.readBody(message))
+    ).subscribe(body => {
+      const updatedGame: GameState = JSON.parse(body);
       console.log("New Game State Received:", updatedGame);
 
       this.zone.run(() => {
@@ -2,6 +2,7 @@ plugins {
     id("java")
     id("org.springframework.boot") version "3.2.2"
     id("io.spring.dependency-management") version "1.1.4"
+    id("org.graalvm.buildtools.native") version "0.9.28"
 }
 
 group = "com.brightcast"
@@ -15,6 +16,14 @@ repositories {
     mavenCentral()
 }
 
+val loadTest by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations["loadTestImplementation"].extendsFrom(configurations.testImplementation.get())
+configurations["loadTestRuntimeOnly"].extendsFrom(configurations.testRuntimeOnly.get())
+
 dependencies {
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-websocket")
@@ -23,4 +32,70 @@ dependencies {
 
 tasks.withType<Test> {
     useJUnitPlatform()
-}
\ No newline at end of file
+}
+
+fun Test.fromLoadTestSourceSet() {
+    group = "verification"
+    testClassesDirs = loadTest.output.classesDirs
+    classpath = loadTest.runtimeClasspath
+    shouldRunAfter(tasks.test)
+    outputs.upToDateWhen { false }
+    testLogging.showStandardStreams = true
+    System.getProperties()
+        .filterKeys { it.toString().startsWith("loadtest.") }
+        .forEach { (key, value) -> systemProperty(key.toString(), value) }
+}
+
+tasks.register<Test>("loadTest") {
+    description = "Plays bot games over STOMP against an in-process server and reports throughput and latency."
+    fromLoadTestSourceSet()
+    useJUnitPlatform { excludeTags("benchmark") }
+}
+
+tasks.register<Test>("benchmark") {
+    description = "Runs the snapshot, lobby index and frame compression microbenchmarks."
+    fromLoadTestSourceSet()
+    useJUnitPlatform { includeTags("benchmark") }
+}
+
+val cdsJar by tasks.registering(Jar::class) {
+    description = "Packages the AOT-processed app as a thin jar whose classpath points at lib/."
+    group = "build"
+    archiveFileName.set("app.jar")
+    destinationDirectory.set(layout.buildDirectory.dir("cds-jar"))
+    from(sourceSets.main.get().output)
+    from(sourceSets["aot"].output)
+    val runtimeJars = configurations.runtimeClasspath
+    doFirst {
+        manifest.attributes(
+            "Main-Class" to "com.brightcast.BrightcastApplication",
+            "Class-Path" to runtimeJars.get().joinToString(" ") { "lib/${it.name}" }
+        )
+    }
+}
+
+val cdsLayout by tasks.registering(Sync::class) {
+    description = "Lays out app.jar and lib/ as plain files, which class-data sharing requires."
+    group = "build"
+    into(layout.buildDirectory.dir("cds"))
+    from(cdsJar)
+    into("lib") { from(configurations.runtimeClasspath) }
+    preserve { include("app.jsa") }
+}
+
+tasks.register<Exec>("cdsArchive") {
+    description = "Records a class-data sharing archive for running build/cds locally with this JDK; the Docker image records its own."
+    group = "build"
+    dependsOn(cdsLayout)
+    val cdsDir = layout.buildDirectory.dir("cds")
+    workingDir(cdsDir)
+    inputs.files(cdsJar, configurations.runtimeClasspath)
+    commandLine(
+        "${System.getProperty("java.home")}/bin/java",
+        "-XX:ArchiveClassesAtExit=app.jsa",
+        "-Dspring.aot.enabled=true",
+        "-Dspring.context.exit=onRefresh",
+        "-jar", "app.jar"
+    )
+    outputs.file(cdsDir.map { it.file("app.jsa") })
+}
@@ -0,0 +1,39 @@
+#!/bin/sh
+# Compares time-to-first-accepted-connection of the Dockerfile's plain fat-jar
+# image with its AOT + CDS fast-start image. Needs docker, curl and perl.
+#
+#   ./scripts/startup-benchmark.sh [runs]
+set -eu
+
+RUNS=${1:-5}
+PORT=18080
+cd "$(dirname "$0")/.."
+
+./gradlew bootJar cdsLayout
+
+docker build -q --target plain -t brightcast:baseline . >/dev/null
+docker build -q --target fast-start -t brightcast:fast-start . >/dev/null
+
+now_ms() { perl -MTime::HiRes=time -e 'printf "%d\n", time() * 1000'; }
+
+measure() {
+    image=$1
+    results=""
+    i=0
+    while [ "$i" -lt "$RUNS" ]; do
+        start=$(now_ms)
+        container=$(docker run -d --rm -p "$PORT:8080" "$image")
+        until curl -s -o /dev/null "http://localhost:$PORT/api/game/counts"; do
+            sleep 0.02
+        done
+        results="$results $(( $(now_ms) - start ))"
+        docker stop -t 1 "$container" >/dev/null
+        i=$((i + 1))
+    done
+    sorted=$(echo "$results" | tr ' ' '\n' | sed '/^$/d' | sort -n)
+    median=$(echo "$sorted" | sed -n "$(( (RUNS + 1) / 2 ))p")
+    printf '%-22s median %5d ms   runs:%s\n' "$image" "$median" "$results"
+}
+
+measure brightcast:baseline
+measure brightcast:fast-start
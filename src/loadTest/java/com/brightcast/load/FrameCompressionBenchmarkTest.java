@@ -0,0 +1,129 @@
+package com.brightcast.load;
+
+import com.brightcast.model.GameSnapshot;
+import com.brightcast.service.GameService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Replays recorded game broadcasts, framed as STOMP MESSAGE frames, through
+ * permessage-deflate the way Tomcat does it (one raw Deflater per connection,
+ * sync-flushed per message) and reports bytes saved and CPU per frame. The
+ * no-takeover rows with a threshold approximate what
+ * {@code brightcast.websocket.compression.min-bytes} does to message bodies.
+ */
+@Tag("benchmark")
+class FrameCompressionBenchmarkTest {
+    private static final int[] THRESHOLDS = {0, 256, 1024, 2048};
+
+    @Test
+    void reportBytesSavedAndCpuPerFrame() throws Exception {
+        int connections = Integer.getInteger("loadtest.connections", 100);
+        int framesPerConnection = Integer.getInteger("loadtest.framesPerConnection", 300);
+        int framesPerSecond = Integer.getInteger("loadtest.framesPerSecond", 5_000);
+
+        List<List<byte[]>> streams = new ArrayList<>();
+        for (int i = 0; i < connections; i++) streams.add(recordGame(framesPerConnection));
+
+        long raw = streams.stream().flatMap(List::stream).mapToLong(frame -> frame.length).sum();
+        long frames = (long) connections * framesPerConnection;
+        System.out.printf("%n=== permessage-deflate benchmark (%d connections x %d frames, avg %d bytes) ===%n",
+                connections, framesPerConnection, raw / frames);
+
+        for (int round = 0; round < 2; round++) {
+            boolean warmup = round == 0;
+            for (boolean contextTakeover : new boolean[]{true, false}) {
+                for (int threshold : THRESHOLDS) {
+                    Result result = run(streams, contextTakeover, threshold);
+                    if (warmup) continue;
+                    double cpuMicros = result.cpuNanos / 1000.0 / frames;
+                    System.out.printf("%-18s threshold %5d B: %6.1f%% of raw bytes, %5.1f%% frames compressed, "
+                                    + "%6.2f us CPU/frame, %.3f cores at %d frames/s%n",
+                            contextTakeover ? "context takeover" : "no takeover", threshold,
+                            100.0 * result.bytes / raw, 100.0 * result.compressed / frames,
+                            cpuMicros, cpuMicros * framesPerSecond / 1e6, framesPerSecond);
+                    if (threshold == 0) assertTrue(result.bytes < raw, "Game state frames should compress");
+                }
+            }
+        }
+        System.out.println();
+    }
+
+    private static List<byte[]> recordGame(int frames) throws Exception {
+        GameService gameService = new GameService(new SimpMessagingTemplate((message, timeout) -> true));
+        ObjectMapper mapper = new ObjectMapper();
+        String gameId = gameService.createGame("host").getGameId();
+        List<byte[]> recorded = new ArrayList<>(frames);
+        recorded.add(stompFrame(gameId, recorded.size(), mapper.writeValueAsBytes(gameService.joinGame(gameId, "guest"))));
+
+        while (recorded.size() < frames) {
+            String player = gameService.getGame(gameId).getCurrentPlayer().getName();
+            GameSnapshot state = switch (gameService.getGame(gameId).getStatus()) {
+                case "WAITING_FOR_DISCARD" -> gameService.discardCard(gameId, player, 0);
+                default -> "DRAW".equals(gameService.getGame(gameId).getTurnPhase())
+                        ? gameService.drawCard(gameId, player)
+                        : gameService.skipTurn(gameId, player);
+            };
+            recorded.add(stompFrame(gameId, recorded.size(), mapper.writeValueAsBytes(state)));
+        }
+        return recorded;
+    }
+
+    private static byte[] stompFrame(String gameId, int messageId, byte[] body) {
+        String headers = "MESSAGE\ndestination:/topic/game/" + gameId + "\ncontent-type:application/json\n"
+                + "subscription:sub-0\nmessage-id:" + gameId + "-" + messageId + "\ncontent-length:" + body.length + "\n\n";
+        byte[] head = headers.getBytes(StandardCharsets.UTF_8);
+        byte[] frame = new byte[head.length + body.length + 1];
+        System.arraycopy(head, 0, frame, 0, head.length);
+        System.arraycopy(body, 0, frame, head.length, body.length);
+        return frame;
+    }
+
+    private static Result run(List<List<byte[]>> streams, boolean contextTakeover, int threshold) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        byte[] buffer = new byte[64 * 1024];
+        Result result = new Result();
+
+        for (List<byte[]> stream : streams) {
+            Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+            long start = threads.getCurrentThreadCpuTime();
+            for (byte[] frame : stream) {
+                if (frame.length < threshold) {
+                    result.bytes += frame.length;
+                    continue;
+                }
+                if (!contextTakeover) deflater.reset();
+                deflater.setInput(frame);
+                int length = 0;
+                int written;
+                do {
+                    written = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                    length += written;
+                } while (written == buffer.length);
+                // RFC 7692 drops the 0x00 0x00 0xff 0xff tail of every sync-flushed message.
+                result.bytes += length - 4;
+                result.compressed++;
+            }
+            result.cpuNanos += threads.getCurrentThreadCpuTime() - start;
+            deflater.end();
+        }
+        return result;
+    }
+
+    private static final class Result {
+        long bytes;
+        long compressed;
+        long cpuNanos;
+    }
+}
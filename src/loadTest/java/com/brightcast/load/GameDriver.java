@@ -0,0 +1,214 @@
+package com.brightcast.load;
+
+import com.brightcast.controller.GameSocketController;
+import com.brightcast.model.CardType;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Plays one game from both seats. Every broadcast on /topic/game/{gameId} is
+ * handed to both seats; the seat whose turn it is answers with a random legal move.
+ */
+class GameDriver {
+    private final String gameId;
+    private final Seat first;
+    private final Seat second;
+    private final int maxMoves;
+    private final LatencyRecorder latencies;
+    private final CountDownLatch done;
+
+    private final AtomicInteger moves = new AtomicInteger();
+    private final AtomicBoolean finished = new AtomicBoolean();
+    private final AtomicLong lastProgressNanos = new AtomicLong(System.nanoTime());
+    private volatile boolean won;
+
+    GameDriver(String gameId, String firstName, StompSession firstSession,
+               String secondName, StompSession secondSession,
+               int maxMoves, long seed, LatencyRecorder latencies, CountDownLatch done) {
+        this.gameId = gameId;
+        this.first = new Seat(firstName, firstSession, new Random(seed));
+        this.second = new Seat(secondName, secondSession, new Random(~seed));
+        this.maxMoves = maxMoves;
+        this.latencies = latencies;
+        this.done = done;
+    }
+
+    void subscribe() {
+        first.session.subscribe("/topic/game/" + gameId, first);
+        second.session.subscribe("/topic/game/" + gameId, second);
+    }
+
+    /**
+     * Re-drives the game from a REST snapshot when no broadcast arrived in time.
+     * Runs on the monitor thread, so it shares the driver lock with {@link Seat#handleFrame}.
+     */
+    synchronized void resync(JsonNode state) {
+        first.sentAt.set(0);
+        second.sentAt.set(0);
+        lastProgressNanos.set(System.nanoTime());
+        first.onState(state, true);
+        second.onState(state, true);
+    }
+
+    String getGameId() { return gameId; }
+    int getMoves() { return moves.get(); }
+    boolean isFinished() { return finished.get(); }
+    boolean isWon() { return won; }
+    long getLastProgressNanos() { return lastProgressNanos.get(); }
+
+    private void finish(boolean won) {
+        if (finished.compareAndSet(false, true)) {
+            this.won = won;
+            done.countDown();
+        }
+    }
+
+    private class Seat implements StompFrameHandler {
+        private final String name;
+        private final StompSession session;
+        private final Random random;
+        private final AtomicLong sentAt = new AtomicLong();
+        private long lastVersion = -1;
+
+        Seat(String name, StompSession session, Random random) {
+            this.name = name;
+            this.session = session;
+            this.random = random;
+        }
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return JsonNode.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            JsonNode state = (JsonNode) payload;
+            synchronized (GameDriver.this) {
+                if (state.path("version").asLong() > lastVersion) {
+                    long sent = sentAt.getAndSet(0);
+                    if (sent != 0) {
+                        latencies.record(System.nanoTime() - sent);
+                        moves.incrementAndGet();
+                    }
+                    lastProgressNanos.set(System.nanoTime());
+                }
+                onState(state, false);
+            }
+        }
+
+        /**
+         * Answers {@code state} at most once per version. A resync may re-answer the
+         * current version (the last move was rejected) but never an older one.
+         */
+        void onState(JsonNode state, boolean resync) {
+            long version = state.path("version").asLong();
+            if (version < lastVersion || (version == lastVersion && !resync)) return;
+            lastVersion = version;
+            if (finished.get()) return;
+
+            String status = state.path("status").asText();
+            if ("FINISHED".equals(status)) {
+                finish(true);
+                return;
+            }
+            if (moves.get() >= maxMoves) {
+                finish(false);
+                return;
+            }
+
+            boolean myTurn = name.equals(state.path("currentPlayer").path("name").asText());
+            switch (status) {
+                case "WAITING_FOR_INTERRUPT" -> {
+                    if (!myTurn) send("interrupt", random.nextBoolean());
+                }
+                case "WAITING_FOR_DISCARD" -> {
+                    if (myTurn) discard(state.path("currentPlayer"));
+                }
+                case "PLAYING" -> {
+                    if (!myTurn) return;
+                    if ("DRAW".equals(state.path("turnPhase").asText())) {
+                        send("draw", move(0));
+                    } else {
+                        playOrSkip(state.path("currentPlayer"), state.path("opponent"));
+                    }
+                }
+                default -> { }
+            }
+        }
+
+        private void discard(JsonNode me) {
+            int handSize = me.path("hand").size();
+            send("discard", move(handSize == 0 ? 0 : random.nextInt(handSize)));
+        }
+
+        private void playOrSkip(JsonNode me, JsonNode opponent) {
+            JsonNode hand = me.path("hand");
+            List<Integer> playable = new ArrayList<>();
+            for (int i = 0; i < hand.size(); i++) {
+                boolean alchemist = CardType.ALCHEMIST.name().equals(hand.get(i).asText());
+                if (!alchemist || !me.path("board").isEmpty()) playable.add(i);
+            }
+            if (playable.isEmpty() || random.nextInt(4) == 0) {
+                send("skip", move(0));
+                return;
+            }
+
+            int cardIndex = playable.get(random.nextInt(playable.size()));
+            GameSocketController.MoveRequest request = move(cardIndex);
+            switch (CardType.valueOf(hand.get(cardIndex).asText())) {
+                case ALCHEMIST -> request.setTargetIndex(random.nextInt(me.path("board").size()));
+                case SORCERER -> request.setTargetIndex(randomIndex(opponent.path("board").size()));
+                case DRUID -> request.setTargetIndex(randomIndex(opponent.path("hand").size()));
+                case WARLOCK -> request.setTargetIndex(spellcasterInDiscard(me.path("discardPile")));
+                case DRAGON -> request.setTargetIndices(dragonTargets(opponent.path("board").size()));
+                default -> { }
+            }
+            send("play", request);
+        }
+
+        private Integer randomIndex(int size) {
+            return size == 0 ? null : random.nextInt(size);
+        }
+
+        private Integer spellcasterInDiscard(JsonNode discardPile) {
+            List<Integer> candidates = new ArrayList<>();
+            for (int i = 0; i < discardPile.size(); i++) {
+                CardType card = CardType.valueOf(discardPile.get(i).asText());
+                if (card.getCategory() == CardType.Category.SPELLCASTER) candidates.add(i);
+            }
+            return candidates.isEmpty() ? null : candidates.get(random.nextInt(candidates.size()));
+        }
+
+        private List<Integer> dragonTargets(int boardSize) {
+            List<Integer> indices = new ArrayList<>();
+            for (int i = 0; i < boardSize; i++) indices.add(i);
+            Collections.shuffle(indices, random);
+            return indices.subList(0, Math.min(3, boardSize));
+        }
+
+        private GameSocketController.MoveRequest move(int cardIndex) {
+            GameSocketController.MoveRequest request = new GameSocketController.MoveRequest();
+            request.setPlayerName(name);
+            request.setCardIndex(cardIndex);
+            return request;
+        }
+
+        private void send(String action, Object payload) {
+            sentAt.set(System.nanoTime());
+            session.send("/app/game/" + gameId + "/" + action, payload);
+        }
+    }
+}
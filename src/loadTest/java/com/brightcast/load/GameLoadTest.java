@@ -0,0 +1,146 @@
+package com.brightcast.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.websocket.ContainerProvider;
+import jakarta.websocket.WebSocketContainer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Boots the whole application on a random port and plays {@code loadtest.games}
+ * bot games over real STOMP connections. Run with {@code ./gradlew loadTest}.
+ * Server and clients share this JVM, so the heap figures cover both; the
+ * baseline is taken after boot, before any client connects.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class GameLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Test
+    void botGamesRunToCompletion() throws Exception {
+        LoadSettings settings = LoadSettings.fromSystemProperties();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long baselineHeap = memory.getHeapMemoryUsage().getUsed();
+
+        LatencyRecorder latencies = new LatencyRecorder();
+        CountDownLatch done = new CountDownLatch(settings.games());
+        WebSocketStompClient stompClient = stompClient();
+
+        List<GameDriver> drivers = new ArrayList<>();
+        List<StompSession> sessions = new ArrayList<>();
+        for (int i = 0; i < settings.games(); i++) {
+            String host = "host-" + i;
+            String guest = "guest-" + i;
+            StompSession hostSession = connect(stompClient);
+            StompSession guestSession = connect(stompClient);
+            sessions.add(hostSession);
+            sessions.add(guestSession);
+
+            JsonNode created = rest.postForObject("/api/game/create?playerName={name}", null, JsonNode.class, host);
+            GameDriver driver = new GameDriver(created.path("gameId").asText(), host, hostSession,
+                    guest, guestSession, settings.maxMovesPerGame(), settings.seed() + i, latencies, done);
+            driver.subscribe();
+            drivers.add(driver);
+        }
+
+        AtomicLong peakHeap = new AtomicLong();
+        AtomicInteger stalls = new AtomicInteger();
+        ScheduledExecutorService monitor = Executors.newSingleThreadScheduledExecutor();
+        long stallNanos = settings.stallTimeout().toNanos();
+        monitor.scheduleAtFixedRate(() -> {
+            peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+            long now = System.nanoTime();
+            for (GameDriver driver : drivers) {
+                if (driver.isFinished() || now - driver.getLastProgressNanos() < stallNanos) continue;
+                JsonNode state = rest.getForObject("/api/game/{id}", JsonNode.class, driver.getGameId());
+                if (state != null) {
+                    stalls.incrementAndGet();
+                    driver.resync(state);
+                }
+            }
+        }, 100, 100, TimeUnit.MILLISECONDS);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < drivers.size(); i++) {
+            rest.postForObject("/api/game/join?gameId={id}&playerName={name}", null, JsonNode.class,
+                    drivers.get(i).getGameId(), "guest-" + i);
+        }
+        boolean completed = done.await(settings.timeout().toMillis(), TimeUnit.MILLISECONDS);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        monitor.shutdownNow();
+        sessions.forEach(StompSession::disconnect);
+        stompClient.stop();
+        System.gc();
+
+        int moves = drivers.stream().mapToInt(GameDriver::getMoves).sum();
+        long wins = drivers.stream().filter(GameDriver::isWon).count();
+        long capped = drivers.stream().filter(d -> d.isFinished() && !d.isWon()).count();
+        double movesPerSecond = moves / elapsedSeconds;
+        double p99 = latencies.percentileMillis(99);
+
+        System.out.printf("%n=== Brightcast load run (seed %d) ===%n", settings.seed());
+        System.out.printf("games           %d (%d won, %d hit the %d move cap)%n",
+                drivers.size(), wins, capped, settings.maxMovesPerGame());
+        System.out.printf("clients         %d STOMP sessions%n", sessions.size());
+        System.out.printf("moves           %d in %.2f s -> %.1f moves/s%n", moves, elapsedSeconds, movesPerSecond);
+        System.out.printf("latency (ms)    p50 %.2f  p99 %.2f  p99.9 %.2f  (%d samples)%n",
+                latencies.percentileMillis(50), p99, latencies.percentileMillis(99.9), latencies.count());
+        System.out.printf("JVM heap (MiB)  before clients %.1f  peak %.1f  after GC %.1f  (server + clients)%n",
+                baselineHeap / 1048576.0, peakHeap.get() / 1048576.0, memory.getHeapMemoryUsage().getUsed() / 1048576.0);
+        System.out.printf("stall resyncs   %d%s%n%n", stalls.get(),
+                stalls.get() == 0 ? "" : " (each waited " + settings.stallTimeout().toMillis() + " ms, moves/s is understated)");
+
+        assertTrue(completed, "Only " + (drivers.size() - done.getCount()) + " of " + drivers.size()
+                + " games finished within " + settings.timeout());
+        // A resync means a move went unanswered for the whole stall timeout, which
+        // lands in elapsedSeconds; a throughput gate cannot trust such a run.
+        assertTrue(settings.minMovesPerSecond() <= 0 || stalls.get() == 0,
+                stalls.get() + " stall resyncs skew the throughput figure");
+        assertTrue(movesPerSecond >= settings.minMovesPerSecond(),
+                "Throughput " + movesPerSecond + " moves/s is below " + settings.minMovesPerSecond());
+        assertTrue(p99 <= settings.maxP99Millis(),
+                "p99 latency " + p99 + " ms is above " + settings.maxP99Millis());
+    }
+
+    private WebSocketStompClient stompClient() {
+        WebSocketContainer container = ContainerProvider.getWebSocketContainer();
+        container.setDefaultMaxTextMessageBufferSize(512 * 1024);
+        WebSocketStompClient client = new WebSocketStompClient(new StandardWebSocketClient(container));
+        client.setMessageConverter(new MappingJackson2MessageConverter());
+        client.setDefaultHeartbeat(new long[]{0, 0});
+        return client;
+    }
+
+    private StompSession connect(WebSocketStompClient client) throws Exception {
+        return client.connectAsync("ws://localhost:" + port + "/brightcast-websocket", new StompSessionHandlerAdapter() { })
+                .get(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,27 @@
+package com.brightcast.load;
+
+import java.time.Duration;
+
+/**
+ * Knobs for a load run, read from {@code loadtest.*} system properties so the
+ * same harness can be used for a quick local check or a heavier gate on CI.
+ */
+record LoadSettings(int games,
+                    int maxMovesPerGame,
+                    Duration timeout,
+                    Duration stallTimeout,
+                    long seed,
+                    double minMovesPerSecond,
+                    double maxP99Millis) {
+
+    static LoadSettings fromSystemProperties() {
+        return new LoadSettings(
+                Integer.getInteger("loadtest.games", 50),
+                Integer.getInteger("loadtest.maxMovesPerGame", 400),
+                Duration.ofSeconds(Long.getLong("loadtest.timeoutSeconds", 120)),
+                Duration.ofMillis(Long.getLong("loadtest.stallMillis", 2000)),
+                Long.getLong("loadtest.seed", System.nanoTime()),
+                Double.parseDouble(System.getProperty("loadtest.minMovesPerSecond", "0")),
+                Double.parseDouble(System.getProperty("loadtest.maxP99Millis", "Infinity")));
+    }
+}
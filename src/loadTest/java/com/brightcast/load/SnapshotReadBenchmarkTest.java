@@ -0,0 +1,97 @@
+package com.brightcast.load;
+
+import com.brightcast.model.CardType;
+import com.brightcast.model.GameSnapshot;
+import com.brightcast.model.PlayerSnapshot;
+import com.brightcast.service.GameService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Serializes the published snapshot from several reader threads while one
+ * writer keeps playing draw/skip/discard turns on the same game. Every read
+ * must account for each player's whole deck and never go back a version.
+ */
+@Tag("benchmark")
+class SnapshotReadBenchmarkTest {
+    private static final int DECK_TOTAL = Arrays.stream(CardType.values()).mapToInt(CardType::getDeckCount).sum();
+
+    @Test
+    void readsStayConsistentUnderConcurrentWrites() throws Exception {
+        int readers = Integer.getInteger("loadtest.readers", Runtime.getRuntime().availableProcessors());
+        long durationMillis = Long.getLong("loadtest.benchmarkMillis", 5000);
+
+        GameService gameService = new GameService(new SimpMessagingTemplate((message, timeout) -> true));
+        String gameId = gameService.createGame("host").getGameId();
+        gameService.joinGame(gameId, "guest");
+
+        ObjectMapper mapper = new ObjectMapper();
+        AtomicBoolean running = new AtomicBoolean(true);
+        LongAdder reads = new LongAdder();
+        LongAdder bytes = new LongAdder();
+        LongAdder writes = new LongAdder();
+        ExecutorService pool = Executors.newFixedThreadPool(readers + 1);
+
+        List<Future<?>> tasks = new ArrayList<>();
+        tasks.add(pool.submit(() -> {
+            while (running.get()) {
+                String player = gameService.getGame(gameId).getCurrentPlayer().getName();
+                gameService.drawCard(gameId, player);
+                GameSnapshot state = gameService.skipTurn(gameId, player);
+                while ("WAITING_FOR_DISCARD".equals(state.getStatus())) {
+                    state = gameService.discardCard(gameId, player, 0);
+                    writes.increment();
+                }
+                writes.add(2);
+            }
+            return null;
+        }));
+        for (int i = 0; i < readers; i++) {
+            tasks.add(pool.submit(() -> {
+                long lastVersion = -1;
+                while (running.get()) {
+                    GameSnapshot state = gameService.getGame(gameId);
+                    bytes.add(mapper.writeValueAsBytes(state).length);
+                    assertTrue(state.getVersion() >= lastVersion,
+                            "Read version " + state.getVersion() + " after " + lastVersion);
+                    lastVersion = state.getVersion();
+                    assertAllCardsAccountedFor(state.getPlayer1());
+                    assertAllCardsAccountedFor(state.getPlayer2());
+                    reads.increment();
+                }
+                return null;
+            }));
+        }
+
+        TimeUnit.MILLISECONDS.sleep(durationMillis);
+        running.set(false);
+        for (Future<?> task : tasks) task.get(10, TimeUnit.SECONDS);
+        pool.shutdown();
+
+        double seconds = durationMillis / 1000.0;
+        System.out.printf("%n=== Snapshot read benchmark (%d readers, 1 writer, %.1f s) ===%n", readers, seconds);
+        System.out.printf("reads   %.0f/s (avg %d bytes)%n", reads.sum() / seconds, bytes.sum() / Math.max(1, reads.sum()));
+        System.out.printf("writes  %.0f/s, final version %d%n%n", writes.sum() / seconds, gameService.getGame(gameId).getVersion());
+
+        assertTrue(reads.sum() > 0 && writes.sum() > 0);
+    }
+
+    private static void assertAllCardsAccountedFor(PlayerSnapshot player) {
+        int cards = player.getHand().size() + player.getBoard().size() + player.getDiscardPile().size() + player.getDeckSize();
+        assertEquals(DECK_TOTAL, cards, player.getName() + " has a torn snapshot");
+    }
+}
@@ -0,0 +1,88 @@
+package com.brightcast.service;
+
+import com.brightcast.model.GameSnapshot;
+import com.brightcast.model.GameState;
+import com.brightcast.model.LobbyPage;
+import com.brightcast.model.LobbySummary;
+import com.brightcast.model.Player;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Lobby browser cost with {@code loadtest.liveGames} games in memory. Game ids
+ * are only four hex digits in production, so this feeds the index directly with
+ * synthetic ids instead of going through {@link GameService#createGame}.
+ */
+@Tag("benchmark")
+class GameIndexBenchmarkTest {
+
+    @Test
+    void lobbyPagesDoNotScaleWithLiveGames() {
+        int liveGames = Integer.getInteger("loadtest.liveGames", 200_000);
+        int iterations = Integer.getInteger("loadtest.iterations", 2_000);
+
+        GameIndex index = new GameIndex();
+        List<GameSnapshot> allGames = new ArrayList<>(liveGames);
+        for (int i = 0; i < liveGames; i++) {
+            GameState game = game("G" + i, new Player("host-" + i));
+            GameSnapshot open = GameSnapshot.of(game, null);
+            index.onPublish(null, open);
+            GameSnapshot latest = open;
+            if (i % 4 != 0) {
+                game.setPlayer2(new Player("guest-" + i));
+                if (i % 4 == 3) game.setWinner("guest-" + i);
+                latest = GameSnapshot.of(game, open);
+                index.onPublish(open, latest);
+            }
+            allGames.add(latest);
+        }
+
+        Map<String, Integer> counts = index.statusCounts();
+        assertEquals((liveGames + 3) / 4, counts.get(GameIndex.OPEN).intValue());
+        assertEquals(20, index.renderLobbyPage("", 0, 20).getLobbies().size());
+
+        System.out.printf("%n=== Lobby index benchmark (%d live games, %s) ===%n", liveGames, counts);
+        report("full scan, first page", iterations / 20, () -> scan(allGames, 0, 20));
+        report("index, first page", iterations, () -> index.renderLobbyPage("", 0, 20));
+        report("index, page 500", iterations, () -> index.renderLobbyPage("", 500, 20));
+        report("index, host prefix", iterations, () -> index.renderLobbyPage("host-1", 0, 20));
+        report("index, host prefix p50", iterations, () -> index.renderLobbyPage("host-1", 50, 20));
+        report("index, cached page", iterations, () -> index.lobbyPage(null, 0, 20));
+        report("status counts", iterations, index::statusCounts);
+        System.out.println();
+    }
+
+    // Four random hex digits cannot give 200k distinct ids, so pin the id per game.
+    private static GameState game(String gameId, Player host) {
+        return new GameState(host, null) {
+            @Override
+            public String getGameId() { return gameId; }
+        };
+    }
+
+    private static LobbyPage scan(List<GameSnapshot> games, int page, int size) {
+        List<GameSnapshot> open = games.stream()
+                .filter(g -> GameIndex.OPEN.equals(g.getStatus()))
+                .sorted(Comparator.comparing(GameSnapshot::getGameId).reversed())
+                .toList();
+        return new LobbyPage(open.stream().skip((long) page * size).limit(size)
+                .map(g -> new LobbySummary(g.getGameId(), g.getPlayer1().getName(), 0))
+                .toList(), page, size, open.size(), (long) (page + 1) * size < open.size());
+    }
+
+    private static void report(String label, int iterations, Supplier<?> operation) {
+        for (int i = 0; i < Math.max(1, iterations / 10); i++) operation.get();
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) operation.get();
+        double micros = (System.nanoTime() - start) / 1000.0 / Math.max(1, iterations);
+        System.out.printf("%-24s %10.2f us/op%n", label, micros);
+    }
+}
@@ -1,9 +1,12 @@
 package com.brightcast;
 
+import com.brightcast.config.ModelRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(ModelRuntimeHints.class)
 public class BrightcastApplication {
     public static void main(String[] args) {
         SpringApplication.run(BrightcastApplication.class, args);
@@ -0,0 +1,81 @@
+package com.brightcast.config;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Deflater;
+
+/**
+ * Deflates STOMP MESSAGE bodies of at least {@code minBytes} for sessions that sent
+ * {@code accept-encoding: deflate} on CONNECT. Those bodies go out as raw DEFLATE
+ * in binary frames marked {@code content-encoding: deflate}; smaller ones stay plain
+ * JSON text. Each session reuses one Deflater, reset per message, so every body can
+ * be inflated on its own. Registered on both client channels by {@link WebSocketConfig}.
+ */
+class DeflateBodyInterceptor implements ChannelInterceptor {
+    static final String ACCEPT_ENCODING = "accept-encoding";
+    static final String CONTENT_ENCODING = "content-encoding";
+    static final String DEFLATE = "deflate";
+
+    private final int minBytes;
+    private final Map<String, Deflater> deflaters = new ConcurrentHashMap<>();
+
+    DeflateBodyInterceptor(int minBytes) {
+        this.minBytes = minBytes;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (type == null || sessionId == null) return message;
+
+        switch (type) {
+            case CONNECT -> {
+                String accepted = SimpMessageHeaderAccessor.wrap(message).getFirstNativeHeader(ACCEPT_ENCODING);
+                if (accepted != null && accepted.contains(DEFLATE)) {
+                    deflaters.put(sessionId, new Deflater(Deflater.DEFAULT_COMPRESSION, true));
+                }
+            }
+            // Also sent by the server when the socket closes without a DISCONNECT frame.
+            // The Deflater is left to its cleaner, since a broadcast may still be using it.
+            case DISCONNECT -> deflaters.remove(sessionId);
+            case MESSAGE -> {
+                return compress(message, sessionId);
+            }
+            default -> { }
+        }
+        return message;
+    }
+
+    private Message<?> compress(Message<?> message, String sessionId) {
+        Deflater deflater = deflaters.get(sessionId);
+        if (deflater == null || !(message.getPayload() instanceof byte[] body) || body.length < minBytes) return message;
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4);
+        byte[] buffer = new byte[4096];
+        synchronized (deflater) {
+            deflater.reset();
+            deflater.setInput(body);
+            deflater.finish();
+            while (!deflater.finished()) compressed.write(buffer, 0, deflater.deflate(buffer));
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        accessor.setNativeHeader(CONTENT_ENCODING, DEFLATE);
+        return MessageBuilder.createMessage(compressed.toByteArray(), accessor.getMessageHeaders());
+    }
+
+    int sessionCount() {
+        return deflaters.size();
+    }
+}
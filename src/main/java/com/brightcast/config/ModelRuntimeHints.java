@@ -0,0 +1,38 @@
+package com.brightcast.config;
+
+import com.brightcast.controller.GameSocketController;
+import com.brightcast.model.CardType;
+import com.brightcast.model.GameSnapshot;
+import com.brightcast.model.LobbyPage;
+import com.brightcast.model.LobbySummary;
+import com.brightcast.model.PlayerSnapshot;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Reflection hints for every type Jackson reads or writes over REST and STOMP.
+ * Runtime hints are only consumed by a GraalVM native-image build, which this
+ * project does not produce yet, so this has no effect on the JVM fast-start image.
+ * It is kept for a future native build as an explicit list alongside the binding
+ * hints Spring already infers from {@code @RestController} and {@code @MessageMapping}
+ * signatures. Imported from {@link com.brightcast.BrightcastApplication}.
+ */
+public class ModelRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final Class<?>[] BOUND_TYPES = {
+            GameSnapshot.class,
+            PlayerSnapshot.class,
+            PlayerSnapshot.BoardCard.class,
+            LobbyPage.class,
+            LobbySummary.class,
+            CardType.class,
+            GameSocketController.MoveRequest.class
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        BindingReflectionHintsRegistrar bindings = new BindingReflectionHintsRegistrar();
+        bindings.registerReflectionHints(hints.reflection(), BOUND_TYPES);
+    }
+}
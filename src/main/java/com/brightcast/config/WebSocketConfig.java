@@ -1,6 +1,11 @@
 package com.brightcast.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
@@ -9,6 +14,15 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+    static final String ENDPOINT = "/brightcast-websocket";
+
+    private final DeflateBodyInterceptor deflateBodies;
+
+    /** {@code minBytes} above zero switches from transport-wide deflate to per-body deflate with that threshold. */
+    public WebSocketConfig(@Value("${brightcast.websocket.compression.enabled:true}") boolean compression,
+                           @Value("${brightcast.websocket.compression.min-bytes:0}") int minBytes) {
+        this.deflateBodies = compression && minBytes > 0 ? new DeflateBodyInterceptor(minBytes) : null;
+    }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
@@ -18,7 +32,33 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
-        registry.addEndpoint("/brightcast-websocket")
+        registry.addEndpoint(ENDPOINT)
                 .setAllowedOrigins("*");
     }
-}
\ No newline at end of file
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        if (deflateBodies != null) registration.interceptors(deflateBodies);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        if (deflateBodies != null) registration.interceptors(deflateBodies);
+    }
+
+    /**
+     * By default Tomcat answers a client's permessage-deflate offer and then deflates
+     * every frame on that connection, however small. Tomcat has no size threshold, so
+     * the offer is hidden from it when {@code brightcast.websocket.compression.enabled=false}
+     * turns compression off, and when {@code brightcast.websocket.compression.min-bytes}
+     * hands it to {@link DeflateBodyInterceptor}.
+     */
+    @Bean
+    @ConditionalOnExpression("'${brightcast.websocket.compression.enabled:true}' == 'false'"
+            + " or ${brightcast.websocket.compression.min-bytes:0} > 0")
+    public FilterRegistrationBean<DeflateOptOutFilter> deflateOptOutFilter() {
+        FilterRegistrationBean<DeflateOptOutFilter> registration = new FilterRegistrationBean<>(new DeflateOptOutFilter());
+        registration.addUrlPatterns(ENDPOINT, ENDPOINT + "/*");
+        return registration;
+    }
+}
@@ -1,10 +1,14 @@
 package com.brightcast.controller;
 
-import com.brightcast.model.GameState;
+import com.brightcast.model.GameSnapshot;
+import com.brightcast.model.LobbyPage;
 import com.brightcast.service.GameService;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/game")
 @CrossOrigin(origins = "*")
@@ -16,23 +20,47 @@ public class GameController {
     }
 
     @PostMapping("/create")
-    public ResponseEntity<GameState> createGame(@RequestParam String playerName) {
-        GameState gameState = gameService.createGame(playerName);
-        return ResponseEntity.ok(gameState);
+    public ResponseEntity<GameSnapshot> createGame(@RequestParam String playerName) {
+        try {
+            GameSnapshot gameState = gameService.createGame(playerName);
+            return ResponseEntity.ok(gameState);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
     }
 
     @PostMapping("/join")
-    public ResponseEntity<GameState> joinGame(@RequestParam String gameId, @RequestParam String playerName) {
+    public ResponseEntity<GameSnapshot> joinGame(@RequestParam String gameId, @RequestParam String playerName) {
         try {
-            GameState gameState = gameService.joinGame(gameId, playerName);
+            GameSnapshot gameState = gameService.joinGame(gameId, playerName);
             return ResponseEntity.ok(gameState);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();        }
     }
 
+    @GetMapping("/lobbies")
+    public ResponseEntity<LobbyPage> getOpenLobbies(@RequestParam(required = false) String host,
+                                                    @RequestParam(defaultValue = "0") int page,
+                                                    @RequestParam(defaultValue = "20") int size) {
+        if (page < 0 || size < 1 || size > 100) return ResponseEntity.badRequest().build();
+        return ResponseEntity.ok(gameService.getOpenLobbies(host, page, size));
+    }
+
+    @GetMapping("/counts")
+    public ResponseEntity<Map<String, Integer>> getStatusCounts() {
+        return ResponseEntity.ok(gameService.getStatusCounts());
+    }
+
     @GetMapping("/{gameId}")
-    public ResponseEntity<GameState> getGame(@PathVariable String gameId){
-        GameState game = gameService.getGame(gameId);
+    public ResponseEntity<GameSnapshot> getGame(@PathVariable String gameId){
+        GameSnapshot game = gameService.getGame(gameId);
+        if (game == null) return ResponseEntity.notFound().build();
+        return ResponseEntity.ok(game);
+    }
+
+    @GetMapping("/{gameId}/version/{version}")
+    public ResponseEntity<GameSnapshot> getGameVersion(@PathVariable String gameId, @PathVariable long version) {
+        GameSnapshot game = gameService.getGameVersion(gameId, version);
         if (game == null) return ResponseEntity.notFound().build();
         return ResponseEntity.ok(game);
     }
@@ -1,6 +1,6 @@
 package com.brightcast.controller;
 
-import com.brightcast.model.GameState;
+import com.brightcast.model.GameSnapshot;
 import com.brightcast.service.GameService;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
@@ -16,31 +16,31 @@ public class GameSocketController {
 
     @MessageMapping("/game/{gameId}/play")
     @SendTo("/topic/game/{gameId}")
-    public GameState playCard(@DestinationVariable String gameId, MoveRequest move) {
+    public GameSnapshot playCard(@DestinationVariable String gameId, MoveRequest move) {
         return gameService.playCard(gameId, move);
     }
 
     @MessageMapping("/game/{gameId}/draw")
     @SendTo("/topic/game/{gameId}")
-    public GameState drawCard(@DestinationVariable String gameId, MoveRequest move) {
+    public GameSnapshot drawCard(@DestinationVariable String gameId, MoveRequest move) {
         return gameService.drawCard(gameId, move.getPlayerName());
     }
 
     @MessageMapping("/game/{gameId}/interrupt")
     @SendTo("/topic/game/{gameId}")
-    public GameState resolveInterrupt(@DestinationVariable String gameId, boolean interrupt) {
+    public GameSnapshot resolveInterrupt(@DestinationVariable String gameId, boolean interrupt) {
         return gameService.resolveInterrupt(gameId, interrupt);
     }
 
     @MessageMapping("/game/{gameId}/discard")
     @SendTo("/topic/game/{gameId}")
-    public GameState discardCard(@DestinationVariable String gameId, MoveRequest move) {
+    public GameSnapshot discardCard(@DestinationVariable String gameId, MoveRequest move) {
         return gameService.discardCard(gameId, move.getPlayerName(), move.getCardIndex());
     }
 
     @MessageMapping("/game/{gameId}/skip")
     @SendTo("/topic/game/{gameId}")
-    public GameState skipTurn(@DestinationVariable String gameId, MoveRequest move) {
+    public GameSnapshot skipTurn(@DestinationVariable String gameId, MoveRequest move) {
         return gameService.skipTurn(gameId, move.getPlayerName());
     }
 
@@ -0,0 +1,73 @@
+package com.brightcast.model;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable copy of a {@link GameState} at a given version. This is what REST
+ * reads and STOMP broadcasts serialize, so they never see a half-applied move.
+ */
+public final class GameSnapshot {
+    private final String gameId;
+    private final long version;
+    private final PlayerSnapshot player1;
+    private final PlayerSnapshot player2;
+    private final int currentPlayerIndex;
+    private final String status;
+    private final String winnerName;
+    private final CardType pendingCard;
+    private final Integer pendingTargetIndex;
+    private final String turnPhase;
+    private final LogChain logs;
+
+    private GameSnapshot(GameState game, long version, PlayerSnapshot player1, PlayerSnapshot player2) {
+        this.gameId = game.getGameId();
+        this.version = version;
+        this.player1 = player1;
+        this.player2 = player2;
+        this.currentPlayerIndex = game.getCurrentPlayerIndex();
+        this.status = game.getStatus();
+        this.winnerName = game.getWinnerName();
+        this.pendingCard = game.getPendingCard();
+        this.pendingTargetIndex = game.getPendingTargetIndex();
+        this.turnPhase = game.getTurnPhase();
+        this.logs = game.getLogChain();
+    }
+
+    /** Builds the next version of {@code game}, sharing whatever did not change since {@code previous}. */
+    public static GameSnapshot of(GameState game, GameSnapshot previous) {
+        if (previous == null) {
+            return new GameSnapshot(game, 0, PlayerSnapshot.of(game.getPlayer1(), null),
+                    PlayerSnapshot.of(game.getPlayer2(), null));
+        }
+        return new GameSnapshot(game, previous.version + 1,
+                PlayerSnapshot.of(game.getPlayer1(), previous.player1),
+                PlayerSnapshot.of(game.getPlayer2(), previous.player2));
+    }
+
+    /**
+     * True when nothing but the version differs. Unchanged players and logs are
+     * shared with the previous snapshot, so those compare by identity.
+     */
+    public boolean hasSameStateAs(GameSnapshot other) {
+        return player1 == other.player1 && player2 == other.player2 && logs == other.logs
+                && currentPlayerIndex == other.currentPlayerIndex
+                && Objects.equals(status, other.status) && Objects.equals(winnerName, other.winnerName)
+                && pendingCard == other.pendingCard && Objects.equals(pendingTargetIndex, other.pendingTargetIndex)
+                && Objects.equals(turnPhase, other.turnPhase);
+    }
+
+    public String getGameId() { return gameId; }
+    public long getVersion() { return version; }
+    public PlayerSnapshot getPlayer1() { return player1; }
+    public PlayerSnapshot getPlayer2() { return player2; }
+    public PlayerSnapshot getCurrentPlayer() { return currentPlayerIndex == 0 ? player1 : player2; }
+    public PlayerSnapshot getOpponent() { return currentPlayerIndex == 0 ? player2 : player1; }
+    public int getCurrentPlayerIndex() { return currentPlayerIndex; }
+    public String getStatus() { return status; }
+    public String getWinnerName() { return winnerName; }
+    public CardType getPendingCard() { return pendingCard; }
+    public Integer getPendingTargetIndex() { return pendingTargetIndex; }
+    public String getTurnPhase() { return turnPhase; }
+    public List<String> getLogs() { return logs.toList(GameState.LOG_LIMIT); }
+}
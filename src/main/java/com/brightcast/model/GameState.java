@@ -1,10 +1,11 @@
 package com.brightcast.model;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 public class GameState {
+    public static final int LOG_LIMIT = 50;
+
     private final String gameId;
     private final Player player1;
     private Player player2;
@@ -16,7 +17,7 @@ public class GameState {
     private Integer pendingTargetIndex;
     private String turnPhase;
 
-    private List<String> logs = new ArrayList<>();
+    private LogChain logs = LogChain.empty();
 
     public GameState(Player player1, Player player2) {
         this.gameId = UUID.randomUUID().toString().substring(0, 4).toUpperCase();
@@ -28,11 +29,11 @@ public class GameState {
     }
 
     public void addLog(String message) {
-        logs.add(0, message);
-        if (logs.size() > 50) logs.remove(logs.size() - 1);
+        logs = logs.prepend(message, LOG_LIMIT);
     }
 
-    public List<String> getLogs() { return logs; }
+    public List<String> getLogs() { return logs.toList(LOG_LIMIT); }
+    public LogChain getLogChain() { return logs; }
 
     public void setPlayer2(Player p2) { this.player2 = p2; this.status = "PLAYING"; }
     public void setStatus(String status) { this.status = status; }
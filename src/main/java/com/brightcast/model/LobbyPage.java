@@ -0,0 +1,31 @@
+package com.brightcast.model;
+
+import java.util.List;
+
+/**
+ * A page of open lobbies. Unfiltered pages are newest first and {@code total} counts
+ * every open lobby. Host-filtered pages are ordered by host name, then newest first,
+ * and {@code total} only counts matches up to one past this page; use
+ * {@code hasMore} to decide whether to offer the next page.
+ */
+public final class LobbyPage {
+    private final List<LobbySummary> lobbies;
+    private final int page;
+    private final int size;
+    private final int total;
+    private final boolean hasMore;
+
+    public LobbyPage(List<LobbySummary> lobbies, int page, int size, int total, boolean hasMore) {
+        this.lobbies = List.copyOf(lobbies);
+        this.page = page;
+        this.size = size;
+        this.total = total;
+        this.hasMore = hasMore;
+    }
+
+    public List<LobbySummary> getLobbies() { return lobbies; }
+    public int getPage() { return page; }
+    public int getSize() { return size; }
+    public int getTotal() { return total; }
+    public boolean isHasMore() { return hasMore; }
+}
@@ -0,0 +1,18 @@
+package com.brightcast.model;
+
+/** One joinable game as listed in the lobby browser. */
+public final class LobbySummary {
+    private final String gameId;
+    private final String hostName;
+    private final long createdAt;
+
+    public LobbySummary(String gameId, String hostName, long createdAt) {
+        this.gameId = gameId;
+        this.hostName = hostName;
+        this.createdAt = createdAt;
+    }
+
+    public String getGameId() { return gameId; }
+    public String getHostName() { return hostName; }
+    public long getCreatedAt() { return createdAt; }
+}
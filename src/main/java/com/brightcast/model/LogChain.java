@@ -0,0 +1,52 @@
+package com.brightcast.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable newest-first log. Prepending adds one node and shares the rest with
+ * the previous chain, so every game version can keep its own log for free.
+ */
+public final class LogChain {
+    private static final LogChain EMPTY = new LogChain(null, null, 0);
+
+    private final String message;
+    private final LogChain next;
+    private final int length;
+
+    private LogChain(String message, LogChain next, int length) {
+        this.message = message;
+        this.next = next;
+        this.length = length;
+    }
+
+    public static LogChain empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Adds {@code message} in front. Once the chain grows to twice {@code limit}
+     * it is rebuilt from its newest {@code limit} entries, so the tail that is no
+     * longer visible can be collected once old versions let go of it.
+     */
+    public LogChain prepend(String message, int limit) {
+        LogChain head = new LogChain(message, this, length + 1);
+        if (head.length <= 2 * limit) return head;
+
+        List<String> kept = head.toList(limit);
+        LogChain rebuilt = EMPTY;
+        for (int i = kept.size() - 1; i >= 0; i--) {
+            rebuilt = new LogChain(kept.get(i), rebuilt, rebuilt.length + 1);
+        }
+        return rebuilt;
+    }
+
+    /** The newest {@code limit} messages, newest first. */
+    public List<String> toList(int limit) {
+        List<String> messages = new ArrayList<>(Math.min(limit, length));
+        for (LogChain node = this; node.length > 0 && messages.size() < limit; node = node.next) {
+            messages.add(node.message);
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,76 @@
+package com.brightcast.model;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Read-only view of a {@link Player} at one game version. Lists that did not
+ * change since the previous version are reused instead of copied again.
+ */
+public final class PlayerSnapshot {
+    private final String name;
+    private final List<CardType> hand;
+    private final List<BoardCard> board;
+    private final List<CardType> discardPile;
+    private final int deckSize;
+
+    private PlayerSnapshot(String name, List<CardType> hand, List<BoardCard> board, List<CardType> discardPile, int deckSize) {
+        this.name = name;
+        this.hand = hand;
+        this.board = board;
+        this.discardPile = discardPile;
+        this.deckSize = deckSize;
+    }
+
+    public static PlayerSnapshot of(Player player, PlayerSnapshot previous) {
+        if (player == null) return null;
+        List<CardType> hand = player.getHand();
+        List<BoardCard> board = player.getBoard().stream().map(BoardCard::new).toList();
+        List<CardType> discardPile = player.getDiscardPile();
+        int deckSize = player.getDeck().size();
+
+        if (previous == null || !previous.name.equals(player.getName())) {
+            return new PlayerSnapshot(player.getName(), List.copyOf(hand), board, List.copyOf(discardPile), deckSize);
+        }
+        boolean sameHand = previous.hand.equals(hand);
+        boolean sameBoard = previous.board.equals(board);
+        boolean sameDiscard = previous.discardPile.equals(discardPile);
+        if (sameHand && sameBoard && sameDiscard && previous.deckSize == deckSize) return previous;
+
+        return new PlayerSnapshot(previous.name,
+                sameHand ? previous.hand : List.copyOf(hand),
+                sameBoard ? previous.board : board,
+                sameDiscard ? previous.discardPile : List.copyOf(discardPile),
+                deckSize);
+    }
+
+    public String getName() { return name; }
+    public List<CardType> getHand() { return hand; }
+    public List<BoardCard> getBoard() { return board; }
+    public List<CardType> getDiscardPile() { return discardPile; }
+    public int getHandSize() { return hand.size(); }
+    public int getDeckSize() { return deckSize; }
+
+    public static final class BoardCard {
+        private final CardType currentCard;
+        private final CardType originalCard;
+
+        BoardCard(CardInstance instance) {
+            this.currentCard = instance.getCurrentCard();
+            this.originalCard = instance.getOriginalCard();
+        }
+
+        public CardType getCurrentCard() { return currentCard; }
+        public CardType getOriginalCard() { return originalCard; }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof BoardCard other && currentCard == other.currentCard && originalCard == other.originalCard;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(currentCard, originalCard);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.brightcast.service;
+
+import com.brightcast.model.GameSnapshot;
+import com.brightcast.model.LobbyPage;
+import com.brightcast.model.LobbySummary;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Secondary indexes over the active games, kept up to date whenever a game's
+ * status changes, so the lobby browser never has to walk every game.
+ */
+class GameIndex {
+    static final String OPEN = "WAITING_FOR_PLAYER";
+    static final long PAGE_CACHE_MILLIS = 1000;
+    private static final int PAGE_CACHE_LIMIT = 1024;
+
+    private final Map<String, Set<String>> gamesByStatus = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, LobbySummary> openLobbies = new ConcurrentSkipListMap<>(Comparator.reverseOrder());
+    /** Open lobbies by lower-cased host name, then newest first, for prefix search. */
+    private final ConcurrentSkipListMap<String, LobbySummary> lobbiesByHost = new ConcurrentSkipListMap<>();
+    private final Map<String, Long> lobbyKeys = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, CachedPage> pageCache = new ConcurrentHashMap<>();
+
+    void onPublish(GameSnapshot previous, GameSnapshot next) {
+        String before = previous == null ? null : previous.getStatus();
+        String after = next.getStatus();
+        if (after.equals(before)) return;
+
+        String gameId = next.getGameId();
+        if (before != null) remove(gameId, before);
+        gamesByStatus.computeIfAbsent(after, status -> ConcurrentHashMap.newKeySet()).add(gameId);
+        if (OPEN.equals(after)) {
+            long key = sequence.incrementAndGet();
+            LobbySummary lobby = new LobbySummary(gameId, next.getPlayer1().getName(), System.currentTimeMillis());
+            lobbyKeys.put(gameId, key);
+            openLobbies.put(key, lobby);
+            lobbiesByHost.put(hostKey(lobby, key), lobby);
+        }
+    }
+
+    private void remove(String gameId, String status) {
+        Set<String> games = gamesByStatus.get(status);
+        if (games != null) games.remove(gameId);
+        if (OPEN.equals(status)) {
+            Long key = lobbyKeys.remove(gameId);
+            LobbySummary lobby = key == null ? null : openLobbies.remove(key);
+            if (lobby != null) lobbiesByHost.remove(hostKey(lobby, key));
+        }
+    }
+
+    /** Lower-cased host name, then the sequence counted down, so one host's lobbies sort newest first. */
+    private static String hostKey(LobbySummary lobby, long key) {
+        return lobby.getHostName().toLowerCase(Locale.ROOT) + '\u0000' + String.format("%019d", Long.MAX_VALUE - key);
+    }
+
+    Map<String, Integer> statusCounts() {
+        Map<String, Integer> counts = new TreeMap<>();
+        gamesByStatus.forEach((status, games) -> {
+            int count = games.size();
+            if (count > 0) counts.put(status, count);
+        });
+        return counts;
+    }
+
+    /**
+     * Unfiltered pages are cached for {@link #PAGE_CACHE_MILLIS}. Host-filtered
+     * pages are not: their keys are unbounded, and each one only walks the lobbies
+     * whose host starts with the filter.
+     */
+    LobbyPage lobbyPage(String host, int page, int size) {
+        String prefix = host == null || host.isBlank() ? "" : host.toLowerCase(Locale.ROOT);
+        if (!prefix.isEmpty()) return renderLobbyPage(prefix, page, size);
+
+        String key = page + "|" + size;
+        long now = System.currentTimeMillis();
+        CachedPage cached = pageCache.get(key);
+        if (cached != null && cached.expiresAt() > now) return cached.page();
+
+        LobbyPage fresh = renderLobbyPage("", page, size);
+        if (pageCache.size() >= PAGE_CACHE_LIMIT) pageCache.values().removeIf(entry -> entry.expiresAt() <= now);
+        if (pageCache.size() < PAGE_CACHE_LIMIT) pageCache.put(key, new CachedPage(fresh, now + PAGE_CACHE_MILLIS));
+        return fresh;
+    }
+
+    /**
+     * Builds a page straight from the index, bypassing the cache. {@code prefix} is
+     * lower case, empty for no filter. Either way at most one lobby past the page is
+     * visited, so a filtered total is only counted that far.
+     */
+    LobbyPage renderLobbyPage(String prefix, int page, int size) {
+        long skip = (long) page * size;
+        List<LobbySummary> lobbies = new ArrayList<>(size);
+
+        if (prefix.isEmpty()) {
+            Set<String> open = gamesByStatus.get(OPEN);
+            int total = open == null ? 0 : open.size();
+            long seen = 0;
+            for (LobbySummary lobby : openLobbies.values()) {
+                if (lobbies.size() == size) break;
+                if (seen++ >= skip) lobbies.add(lobby);
+            }
+            return new LobbyPage(lobbies, page, size, total, skip + lobbies.size() < total);
+        }
+
+        int seen = 0;
+        boolean more = false;
+        for (LobbySummary lobby : lobbiesByHost.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            if (lobbies.size() == size) {
+                more = true;
+                seen++;
+                break;
+            }
+            if (seen++ >= skip) lobbies.add(lobby);
+        }
+        return new LobbyPage(lobbies, page, size, seen, more);
+    }
+
+    private record CachedPage(LobbyPage page, long expiresAt) { }
+}
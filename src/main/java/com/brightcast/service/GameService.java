@@ -3,7 +3,9 @@ package com.brightcast.service;
 import com.brightcast.controller.GameSocketController;
 import com.brightcast.model.CardInstance;
 import com.brightcast.model.CardType;
+import com.brightcast.model.GameSnapshot;
 import com.brightcast.model.GameState;
+import com.brightcast.model.LobbyPage;
 import com.brightcast.model.Player;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
@@ -11,13 +13,16 @@ import org.springframework.stereotype.Service;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 public class GameService {
+    private static final int MAX_ID_ATTEMPTS = 16;
 
-    private final Map<String, GameState> activeGames = new ConcurrentHashMap<>();
+    private final Map<String, VersionedGame> activeGames = new ConcurrentHashMap<>();
     private final Map<String, GameSocketController.MoveRequest> pendingMoves = new ConcurrentHashMap<>();
+    private final GameIndex index = new GameIndex();
 
     private final SimpMessagingTemplate messagingTemplate;
 
@@ -25,26 +30,38 @@ public class GameService {
         this.messagingTemplate = messagingTemplate;
     }
 
-    public GameState createGame(String p1Name) {
+    /** @throws IllegalStateException when no free game id turns up, which gets likelier as the id space fills */
+    public GameSnapshot createGame(String p1Name) {
         Player p1 = new Player(p1Name);
-        GameState game = new GameState(p1, null);
-        activeGames.put(game.getGameId(), game);
-        return game;
+        for (int attempt = 0; attempt < MAX_ID_ATTEMPTS; attempt++) {
+            VersionedGame game = new VersionedGame(new GameState(p1, null), index::onPublish);
+            // Hold the game's lock until version 0 is indexed, so a join cannot be indexed first.
+            synchronized (game) {
+                if (activeGames.putIfAbsent(game.current().getGameId(), game) == null) {
+                    index.onPublish(null, game.current());
+                    return game.current();
+                }
+            }
+        }
+        throw new IllegalStateException("No free game id");
     }
 
-    public GameState joinGame(String gameId, String p2Name) {
-        GameState game = activeGames.get(gameId);
+    public GameSnapshot joinGame(String gameId, String p2Name) {
+        VersionedGame game = activeGames.get(gameId);
         if (game == null) throw new IllegalArgumentException("Game not found");
-        if (game.getPlayer2() != null) throw new IllegalArgumentException("Game full");
 
-        game.setPlayer2(new Player(p2Name));
-        game.addLog(p2Name + " joined the game!");
+        GameSnapshot snapshot = game.update(state -> {
+            if (state.getPlayer2() != null) throw new IllegalArgumentException("Game full");
 
-        randomizeStart(game);
+            state.setPlayer2(new Player(p2Name));
+            state.addLog(p2Name + " joined the game!");
 
-        messagingTemplate.convertAndSend("/topic/game/" + gameId, game);
+            randomizeStart(state);
+        });
 
-        return game;
+        messagingTemplate.convertAndSend("/topic/game/" + gameId, snapshot);
+
+        return snapshot;
     }
 
     private void randomizeStart(GameState game) {
@@ -66,12 +83,37 @@ public class GameService {
         if (!p2.getDeck().isEmpty()) p2.getDiscardPile().push(p2.getDeck().draw());
     }
 
-    public GameState getGame(String gameId) { return activeGames.get(gameId); }
+    public GameSnapshot getGame(String gameId) {
+        VersionedGame game = activeGames.get(gameId);
+        return game == null ? null : game.current();
+    }
+
+    /** Returns an earlier version of the game, if it is still within the retained history. */
+    public GameSnapshot getGameVersion(String gameId, long version) {
+        VersionedGame game = activeGames.get(gameId);
+        return game == null ? null : game.version(version);
+    }
+
+    /** Joinable games, newest first, optionally filtered by a case-insensitive host name prefix. */
+    public LobbyPage getOpenLobbies(String host, int page, int size) {
+        return index.lobbyPage(host, page, size);
+    }
+
+    public Map<String, Integer> getStatusCounts() {
+        return index.statusCounts();
+    }
 
-    public GameState drawCard(String gameId, String playerName) {
-        GameState game = activeGames.get(gameId);
+    private GameSnapshot update(String gameId, Consumer<GameState> change) {
+        VersionedGame game = activeGames.get(gameId);
         if (game == null) return null;
+        return game.update(change);
+    }
+
+    public GameSnapshot drawCard(String gameId, String playerName) {
+        return update(gameId, game -> drawCard(game, playerName));
+    }
 
+    private void drawCard(GameState game, String playerName) {
         if (!game.getStatus().equals("PLAYING") && !game.getStatus().equals("WAITING_FOR_PLAYER")) {
             throw new IllegalStateException("Finish your current action first!");
         }
@@ -83,11 +125,13 @@ public class GameService {
         currentPlayer.drawCard();
         game.addLog(playerName + " drew a card.");
         game.setTurnPhase("MAIN");
-        return game;
     }
 
-    public GameState skipTurn(String gameId, String playerName) {
-        GameState game = activeGames.get(gameId);
+    public GameSnapshot skipTurn(String gameId, String playerName) {
+        return update(gameId, game -> skipTurn(game, playerName));
+    }
+
+    private void skipTurn(GameState game, String playerName) {
         Player currentPlayer = game.getCurrentPlayer();
 
         if (!game.getStatus().equals("PLAYING")) {
@@ -100,12 +144,13 @@ public class GameService {
         currentPlayer.drawCard();
         game.addLog(playerName + " Skipped & Drew.");
         endTurnOrForceDiscard(game);
-        return game;
     }
 
-    public GameState playCard(String gameId, GameSocketController.MoveRequest request) {
-        GameState game = activeGames.get(gameId);
+    public GameSnapshot playCard(String gameId, GameSocketController.MoveRequest request) {
+        return update(gameId, game -> playCard(game, request));
+    }
 
+    private void playCard(GameState game, GameSocketController.MoveRequest request) {
         if (!game.getStatus().equals("PLAYING")) throw new IllegalStateException("Game is paused or waiting for action.");
         if ("DRAW".equals(game.getTurnPhase())) throw new IllegalStateException("Draw first!");
 
@@ -129,18 +174,21 @@ public class GameService {
             currentPlayer.playAlchemistToBoard(copiedType);
 
             if (canInterrupt(opponent, CardType.ALCHEMIST)) {
-                return triggerInterrupt(game, request, CardType.ALCHEMIST);
+                triggerInterrupt(game, request, CardType.ALCHEMIST);
+                return;
             }
-            return executeCardEffect(game, copiedType, request);
+            executeCardEffect(game, copiedType, request);
+            return;
         }
 
         currentPlayer.playToBoard(card);
 
         if (canInterrupt(opponent, card)) {
-            return triggerInterrupt(game, request, card);
+            triggerInterrupt(game, request, card);
+            return;
         }
 
-        return executeCardEffect(game, card, request);
+        executeCardEffect(game, card, request);
     }
 
     private void endTurnOrForceDiscard(GameState game) {
@@ -153,8 +201,11 @@ public class GameService {
         }
     }
 
-    public GameState discardCard(String gameId, String playerName, int cardIndex) {
-        GameState game = activeGames.get(gameId);
+    public GameSnapshot discardCard(String gameId, String playerName, int cardIndex) {
+        return update(gameId, game -> discardCard(game, playerName, cardIndex));
+    }
+
+    private void discardCard(GameState game, String playerName, int cardIndex) {
         Player currentPlayer = game.getCurrentPlayer();
 
         if (!game.getStatus().equals("WAITING_FOR_DISCARD")) throw new IllegalStateException("Not discarding mode");
@@ -171,10 +222,9 @@ public class GameService {
         } else {
             endTurnOrForceDiscard(game);
         }
-        return game;
     }
 
-    private GameState executeCardEffect(GameState game, CardType effectiveCard, GameSocketController.MoveRequest request) {
+    private void executeCardEffect(GameState game, CardType effectiveCard, GameSocketController.MoveRequest request) {
         Player currentPlayer = game.getCurrentPlayer();
         Player opponent = game.getOpponent();
         boolean actionSuccessful = true;
@@ -190,7 +240,7 @@ public class GameService {
                 currentPlayer.drawCard(); currentPlayer.drawCard();
                 game.addLog(currentPlayer.getName() + " drew 2 cards (Sage).");
                 game.setStatus("WAITING_FOR_DISCARD");
-                return game;
+                return;
             case SORCERER:
                 if (request.getTargetIndex() != null && request.getTargetIndex() < opponent.getBoard().size()) {
                     CardInstance target = opponent.getBoard().get(request.getTargetIndex());
@@ -247,7 +297,6 @@ public class GameService {
         } else {
             endTurnOrForceDiscard(game);
         }
-        return game;
     }
 
     private boolean canInterrupt(Player opponent, CardType playedCard) {
@@ -260,18 +309,21 @@ public class GameService {
         return hand.contains(playedCard) || hand.contains(CardType.ALCHEMIST);
     }
 
-    private GameState triggerInterrupt(GameState game, GameSocketController.MoveRequest request, CardType card) {
+    private void triggerInterrupt(GameState game, GameSocketController.MoveRequest request, CardType card) {
         pendingMoves.put(game.getGameId(), request);
         game.setPendingCard(card);
         game.setPendingTargetIndex(request.getTargetIndex());
         game.setStatus("WAITING_FOR_INTERRUPT");
         game.addLog("Waiting for " + game.getOpponent().getName() + " to interrupt...");
-        return game;
     }
 
-    public GameState resolveInterrupt(String gameId, boolean interrupt) {
-        GameState game = activeGames.get(gameId);
-        GameSocketController.MoveRequest request = pendingMoves.remove(gameId);
+    public GameSnapshot resolveInterrupt(String gameId, boolean interrupt) {
+        return update(gameId, game -> resolveInterrupt(game, interrupt));
+    }
+
+    private void resolveInterrupt(GameState game, boolean interrupt) {
+        if (!game.getStatus().equals("WAITING_FOR_INTERRUPT")) throw new IllegalStateException("No move to interrupt");
+        GameSocketController.MoveRequest request = pendingMoves.remove(game.getGameId());
 
         if (!interrupt) {
             game.setStatus("PLAYING");
@@ -279,7 +331,7 @@ public class GameService {
             game.setPendingTargetIndex(null);
             game.addLog(game.getOpponent().getName() + " did not interrupt.");
             CardInstance instance = game.getCurrentPlayer().getBoard().get(game.getCurrentPlayer().getBoard().size() - 1);
-            return executeCardEffect(game, instance.getCurrentCard(), request);
+            executeCardEffect(game, instance.getCurrentCard(), request);
         } else {
             Player opponent = game.getOpponent();
             Player currentPlayer = game.getCurrentPlayer();
@@ -302,7 +354,6 @@ public class GameService {
             game.setPendingTargetIndex(null);
             game.addLog("⚡ " + opponent.getName() + " INTERRUPTED " + playedCard + "!");
             game.switchTurn();
-            return game;
         }
     }
 
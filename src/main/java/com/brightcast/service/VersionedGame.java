@@ -0,0 +1,67 @@
+package com.brightcast.service;
+
+import com.brightcast.model.GameSnapshot;
+import com.brightcast.model.GameState;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Owns one game's mutable {@link GameState} and publishes an immutable
+ * {@link GameSnapshot} after every change. Writers take the instance lock;
+ * readers only touch the atomic reference and the history ring.
+ */
+class VersionedGame {
+    static final int HISTORY_LIMIT = 100;
+
+    private final GameState state;
+    private final AtomicReference<GameSnapshot> current = new AtomicReference<>();
+    private final AtomicReferenceArray<GameSnapshot> history = new AtomicReferenceArray<>(HISTORY_LIMIT);
+    private final BiConsumer<GameSnapshot, GameSnapshot> onChange;
+
+    /** {@code onChange} receives (previous, next) after every update, while the write lock is still held. */
+    VersionedGame(GameState state, BiConsumer<GameSnapshot, GameSnapshot> onChange) {
+        this.state = state;
+        this.onChange = onChange;
+        publish();
+    }
+
+    GameSnapshot current() {
+        return current.get();
+    }
+
+    /**
+     * Applies {@code change} and publishes the result. A change that throws part-way
+     * still publishes whatever it already mutated, so readers never fall behind the
+     * writer-side state; a change that throws before touching anything publishes nothing.
+     */
+    synchronized GameSnapshot update(Consumer<GameState> change) {
+        GameSnapshot previous = current.get();
+        try {
+            change.accept(state);
+        } finally {
+            GameSnapshot next = publish();
+            if (next != previous) onChange.accept(previous, next);
+        }
+        return current.get();
+    }
+
+    /** An earlier version still in the ring, or null once it was evicted. */
+    GameSnapshot version(long version) {
+        long latest = current.get().getVersion();
+        if (version > latest || latest - version >= HISTORY_LIMIT) return null;
+        GameSnapshot snapshot = history.get((int) (version % HISTORY_LIMIT));
+        return snapshot != null && snapshot.getVersion() == version ? snapshot : null;
+    }
+
+    private GameSnapshot publish() {
+        GameSnapshot previous = current.get();
+        GameSnapshot next = GameSnapshot.of(state, previous);
+        if (previous != null && next.hasSameStateAs(previous)) return previous;
+        history.set((int) (next.getVersion() % HISTORY_LIMIT), next);
+        current.set(next);
+        return next;
+    }
+}
@@ -0,0 +1,90 @@
+package com.brightcast.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Inflater;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeflateBodyInterceptorTest {
+    private static final byte[] SMALL = "{\"status\":\"PLAYING\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] LARGE = "{\"logs\":[\"Donovan drew a card.\"]}".repeat(40).getBytes(StandardCharsets.UTF_8);
+
+    private final DeflateBodyInterceptor interceptor = new DeflateBodyInterceptor(256);
+
+    @Test
+    void largeBodiesShouldBeDeflatedForOptedInSessions() throws Exception {
+        connect("s1", "gzip, deflate");
+
+        Message<?> sent = interceptor.preSend(broadcast("s1", LARGE), null);
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.wrap(sent);
+
+        assertEquals(DeflateBodyInterceptor.DEFLATE, headers.getFirstNativeHeader(DeflateBodyInterceptor.CONTENT_ENCODING));
+        assertEquals(MimeTypeUtils.APPLICATION_OCTET_STREAM, headers.getContentType());
+        byte[] compressed = (byte[]) sent.getPayload();
+        assertTrue(compressed.length < LARGE.length);
+        assertArrayEquals(LARGE, inflate(compressed, LARGE.length));
+    }
+
+    @Test
+    void bodiesBelowThresholdShouldStayPlain() {
+        connect("s1", "deflate");
+        Message<byte[]> small = broadcast("s1", SMALL);
+
+        assertSame(small, interceptor.preSend(small, null));
+    }
+
+    @Test
+    void sessionsWithoutOptInShouldStayPlain() {
+        connect("s1", null);
+        Message<byte[]> large = broadcast("s1", LARGE);
+
+        assertSame(large, interceptor.preSend(large, null));
+        assertEquals(0, interceptor.sessionCount());
+    }
+
+    @Test
+    void disconnectShouldForgetSession() {
+        connect("s1", "deflate");
+        StompHeaderAccessor disconnect = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        disconnect.setSessionId("s1");
+        interceptor.preSend(MessageBuilder.createMessage(new byte[0], disconnect.getMessageHeaders()), null);
+
+        assertEquals(0, interceptor.sessionCount());
+        Message<byte[]> large = broadcast("s1", LARGE);
+        assertSame(large, interceptor.preSend(large, null));
+    }
+
+    private void connect(String sessionId, String acceptEncoding) {
+        StompHeaderAccessor connect = StompHeaderAccessor.create(StompCommand.CONNECT);
+        connect.setSessionId(sessionId);
+        if (acceptEncoding != null) connect.setNativeHeader(DeflateBodyInterceptor.ACCEPT_ENCODING, acceptEncoding);
+        interceptor.preSend(MessageBuilder.createMessage(new byte[0], connect.getMessageHeaders()), null);
+    }
+
+    private static Message<byte[]> broadcast(String sessionId, byte[] body) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setDestination("/topic/game/ABCD");
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        return MessageBuilder.createMessage(body, accessor.getMessageHeaders());
+    }
+
+    private static byte[] inflate(byte[] compressed, int length) throws Exception {
+        Inflater inflater = new Inflater(true);
+        inflater.setInput(compressed);
+        byte[] body = new byte[length];
+        assertEquals(length, inflater.inflate(body));
+        assertTrue(inflater.finished());
+        inflater.end();
+        return body;
+    }
+}
@@ -0,0 +1,33 @@
+package com.brightcast.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeflateOptOutFilterTest {
+
+    @Test
+    void extensionOfferShouldBeHidden() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/brightcast-websocket");
+        request.addHeader("sec-websocket-extensions", "permessage-deflate; client_max_window_bits");
+        request.addHeader("Upgrade", "websocket");
+        MockFilterChain chain = new MockFilterChain();
+
+        new DeflateOptOutFilter().doFilter(request, new MockHttpServletResponse(), chain);
+        HttpServletRequest filtered = (HttpServletRequest) chain.getRequest();
+
+        assertNull(filtered.getHeader("Sec-WebSocket-Extensions"));
+        assertNull(filtered.getHeader("SEC-WEBSOCKET-EXTENSIONS"));
+        assertFalse(filtered.getHeaders("Sec-WebSocket-Extensions").hasMoreElements());
+        assertTrue(Collections.list(filtered.getHeaderNames()).stream()
+                .noneMatch(DeflateOptOutFilter.EXTENSIONS_HEADER::equalsIgnoreCase));
+        assertTrue(Collections.list(filtered.getHeaderNames()).contains("Upgrade"));
+        assertEquals("websocket", filtered.getHeader("Upgrade"));
+    }
+}
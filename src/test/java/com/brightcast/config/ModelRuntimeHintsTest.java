@@ -0,0 +1,23 @@
+package com.brightcast.config;
+
+import com.brightcast.controller.GameSocketController;
+import com.brightcast.model.GameSnapshot;
+import com.brightcast.model.PlayerSnapshot;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ModelRuntimeHintsTest {
+
+    @Test
+    void jacksonTypesShouldBeRegistered() {
+        RuntimeHints hints = new RuntimeHints();
+        new ModelRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(GameSnapshot.class, "getCurrentPlayer").test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(PlayerSnapshot.BoardCard.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(GameSocketController.MoveRequest.class, "setTargetIndices").test(hints));
+    }
+}
@@ -0,0 +1,34 @@
+package com.brightcast.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WebSocketConfigTest {
+    private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+            .withUserConfiguration(WebSocketConfig.class);
+
+    @Test
+    void compressionShouldStayOnByDefault() {
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean("deflateOptOutFilter"));
+    }
+
+    @Test
+    void disablingCompressionShouldRegisterFilter() {
+        contextRunner.withPropertyValues("brightcast.websocket.compression.enabled=false")
+                .run(context -> assertThat(context).hasBean("deflateOptOutFilter"));
+    }
+
+    @Test
+    void enablingCompressionExplicitlyShouldNotRegisterFilter() {
+        contextRunner.withPropertyValues("brightcast.websocket.compression.enabled=true")
+                .run(context -> assertThat(context).doesNotHaveBean("deflateOptOutFilter"));
+    }
+
+    @Test
+    void thresholdShouldRegisterFilter() {
+        contextRunner.withPropertyValues("brightcast.websocket.compression.min-bytes=1024")
+                .run(context -> assertThat(context).hasBean("deflateOptOutFilter"));
+    }
+}
@@ -0,0 +1,87 @@
+package com.brightcast.config;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Sends a real WebSocket upgrade that offers permessage-deflate, the way browsers
+ * do, and checks whether Tomcat accepted the extension in its 101 response.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class WebSocketHandshakeTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void deflateShouldBeNegotiatedByDefault() throws IOException {
+        String extensions = negotiatedExtensions(port);
+        assertNotNull(extensions);
+        assertTrue(extensions.startsWith("permessage-deflate"), extensions);
+    }
+
+    @Nested
+    @TestPropertySource(properties = "brightcast.websocket.compression.enabled=false")
+    class CompressionDisabled {
+        @LocalServerPort
+        private int port;
+
+        @Test
+        void deflateShouldNotBeNegotiated() throws IOException {
+            assertNull(negotiatedExtensions(port));
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = "brightcast.websocket.compression.min-bytes=1024")
+    class CompressionThreshold {
+        @LocalServerPort
+        private int port;
+
+        @Test
+        void deflateShouldBeLeftToTheBodyInterceptor() throws IOException {
+            assertNull(negotiatedExtensions(port));
+        }
+    }
+
+    private static String negotiatedExtensions(int port) throws IOException {
+        try (Socket socket = new Socket("localhost", port)) {
+            socket.setSoTimeout(5000);
+            String request = "GET " + WebSocketConfig.ENDPOINT + " HTTP/1.1\r\n"
+                    + "Host: localhost:" + port + "\r\n"
+                    + "Upgrade: websocket\r\n"
+                    + "Connection: Upgrade\r\n"
+                    + "Sec-WebSocket-Key: dGhlIHNhbXBsZSBub25jZQ==\r\n"
+                    + "Sec-WebSocket-Version: 13\r\n"
+                    + "Sec-WebSocket-Protocol: v12.stomp\r\n"
+                    + DeflateOptOutFilter.EXTENSIONS_HEADER + ": permessage-deflate; client_max_window_bits\r\n"
+                    + "\r\n";
+            socket.getOutputStream().write(request.getBytes(StandardCharsets.US_ASCII));
+            socket.getOutputStream().flush();
+
+            BufferedReader response = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            String status = response.readLine();
+            assertTrue(status != null && status.startsWith("HTTP/1.1 101"), "Handshake failed: " + status);
+
+            String extensions = null;
+            for (String line = response.readLine(); line != null && !line.isEmpty(); line = response.readLine()) {
+                int colon = line.indexOf(':');
+                if (colon > 0 && line.substring(0, colon).trim().equalsIgnoreCase(DeflateOptOutFilter.EXTENSIONS_HEADER)) {
+                    extensions = line.substring(colon + 1).trim();
+                }
+            }
+            return extensions;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.brightcast.controller;
+
+import com.brightcast.service.GameService;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameControllerTest {
+    private final GameService gameService = new GameService(new SimpMessagingTemplate((message, timeout) -> true));
+    private final GameController controller = new GameController(gameService);
+
+    @Test
+    void versionEndpointShouldReturnRetainedVersions() {
+        String gameId = gameService.createGame("Donovan").getGameId();
+        gameService.joinGame(gameId, "Guest");
+
+        assertEquals(HttpStatus.OK, controller.getGameVersion(gameId, 0).getStatusCode());
+        assertEquals(0, controller.getGameVersion(gameId, 0).getBody().getVersion());
+        assertEquals(HttpStatus.NOT_FOUND, controller.getGameVersion(gameId, 5).getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND, controller.getGameVersion("NONE", 0).getStatusCode());
+    }
+}
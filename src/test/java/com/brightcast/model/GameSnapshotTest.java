@@ -0,0 +1,56 @@
+package com.brightcast.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSnapshotTest {
+
+    @Test
+    void snapshotShouldNotSeeLaterMoves() {
+        Player player = new Player("Donovan");
+        GameState game = new GameState(player, null);
+        GameSnapshot before = GameSnapshot.of(game, null);
+
+        player.drawCard();
+        game.addLog("Donovan drew a card.");
+        GameSnapshot after = GameSnapshot.of(game, before);
+
+        assertEquals(0, before.getPlayer1().getHandSize());
+        assertTrue(before.getLogs().isEmpty());
+        assertEquals(1, after.getPlayer1().getHandSize());
+        assertEquals(before.getVersion() + 1, after.getVersion());
+        assertThrows(UnsupportedOperationException.class, () -> after.getPlayer1().getHand().clear());
+    }
+
+    @Test
+    void unchangedPlayerShouldBeShared() {
+        Player player1 = new Player("Donovan");
+        Player player2 = new Player("Guest");
+        GameState game = new GameState(player1, null);
+        game.setPlayer2(player2);
+        GameSnapshot before = GameSnapshot.of(game, null);
+
+        player1.drawCard();
+        GameSnapshot after = GameSnapshot.of(game, before);
+
+        assertSame(before.getPlayer2(), after.getPlayer2());
+        assertNotSame(before.getPlayer1(), after.getPlayer1());
+        assertSame(before.getPlayer1().getDiscardPile(), after.getPlayer1().getDiscardPile());
+    }
+
+    @Test
+    void logsShouldShareOlderEntriesAndStayCapped() {
+        GameState game = new GameState(new Player("Donovan"), null);
+        for (int i = 0; i < 3 * GameState.LOG_LIMIT; i++) game.addLog("move " + i);
+        GameSnapshot before = GameSnapshot.of(game, null);
+
+        game.addLog("latest");
+        GameSnapshot after = GameSnapshot.of(game, before);
+
+        assertEquals(GameState.LOG_LIMIT, after.getLogs().size());
+        assertEquals("latest", after.getLogs().get(0));
+        assertEquals(before.getLogs().subList(0, GameState.LOG_LIMIT - 1), after.getLogs().subList(1, GameState.LOG_LIMIT));
+        assertEquals("move " + (3 * GameState.LOG_LIMIT - 1), before.getLogs().get(0));
+    }
+}
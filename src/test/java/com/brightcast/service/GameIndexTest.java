@@ -0,0 +1,62 @@
+package com.brightcast.service;
+
+import com.brightcast.model.GameSnapshot;
+import com.brightcast.model.GameState;
+import com.brightcast.model.LobbyPage;
+import com.brightcast.model.Player;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameIndexTest {
+
+    @Test
+    void joinedGameShouldLeaveLobby() {
+        GameIndex index = new GameIndex();
+        GameState first = game("AAAA", new Player("Donovan"));
+        GameState second = game("BBBB", new Player("Guest"));
+        GameSnapshot firstOpen = GameSnapshot.of(first, null);
+        index.onPublish(null, firstOpen);
+        index.onPublish(null, GameSnapshot.of(second, null));
+
+        LobbyPage page = index.renderLobbyPage("", 0, 10);
+        assertEquals(2, page.getTotal());
+        assertEquals("BBBB", page.getLobbies().get(0).getGameId());
+
+        first.setPlayer2(new Player("Rival"));
+        index.onPublish(firstOpen, GameSnapshot.of(first, firstOpen));
+
+        assertEquals(1, index.renderLobbyPage("", 0, 10).getTotal());
+        assertEquals(1, index.statusCounts().get("PLAYING"));
+        assertEquals(0, index.renderLobbyPage("don", 0, 10).getTotal());
+        assertEquals(1, index.renderLobbyPage("gue", 0, 10).getTotal());
+    }
+
+    @Test
+    void hostFilterShouldStopOnePastThePage() {
+        GameIndex index = new GameIndex();
+        for (int i = 0; i < 5; i++) {
+            index.onPublish(null, GameSnapshot.of(new GameState(new Player("Host"), null), null));
+        }
+        index.onPublish(null, GameSnapshot.of(new GameState(new Player("Other"), null), null));
+
+        LobbyPage first = index.lobbyPage("ho", 0, 2);
+        assertEquals(2, first.getLobbies().size());
+        assertEquals(3, first.getTotal());
+        assertTrue(first.isHasMore());
+
+        LobbyPage last = index.lobbyPage("HO", 2, 2);
+        assertEquals(1, last.getLobbies().size());
+        assertEquals(5, last.getTotal());
+        assertFalse(last.isHasMore());
+        assertEquals(0, index.lobbyPage("ost", 0, 2).getTotal());
+    }
+
+    /** A game with a fixed id instead of a random one; only the id getter is overridden. */
+    private static GameState game(String gameId, Player host) {
+        return new GameState(host, null) {
+            @Override
+            public String getGameId() { return gameId; }
+        };
+    }
+}
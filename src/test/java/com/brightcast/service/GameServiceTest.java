@@ -0,0 +1,62 @@
+package com.brightcast.service;
+
+import com.brightcast.model.GameSnapshot;
+import com.brightcast.model.GameState;
+import com.brightcast.model.Player;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameServiceTest {
+    private final GameService gameService = new GameService(new SimpMessagingTemplate((message, timeout) -> true));
+
+    @Test
+    void oldVersionsShouldBeEvictedFromHistory() {
+        String gameId = gameService.createGame("Donovan").getGameId();
+        gameService.joinGame(gameId, "Guest");
+        long latest = playMoves(gameId, VersionedGame.HISTORY_LIMIT + 20);
+
+        assertNull(gameService.getGameVersion(gameId, 0));
+        assertNull(gameService.getGameVersion(gameId, latest - VersionedGame.HISTORY_LIMIT));
+        assertNull(gameService.getGameVersion(gameId, latest + 1));
+        assertEquals(latest - VersionedGame.HISTORY_LIMIT + 1,
+                gameService.getGameVersion(gameId, latest - VersionedGame.HISTORY_LIMIT + 1).getVersion());
+        assertSame(gameService.getGame(gameId), gameService.getGameVersion(gameId, latest));
+    }
+
+    @Test
+    void failedChangeShouldPublishOnlyWhatItMutated() {
+        VersionedGame game = new VersionedGame(new GameState(new Player("Donovan"), null), (previous, next) -> { });
+
+        assertThrows(IllegalStateException.class, () -> game.update(s -> { throw new IllegalStateException(); }));
+        assertEquals(0, game.current().getVersion());
+
+        assertThrows(IllegalStateException.class, () -> game.update(s -> {
+            s.addLog("half a move");
+            throw new IllegalStateException();
+        }));
+        assertEquals(1, game.current().getVersion());
+        assertEquals("half a move", game.current().getLogs().get(0));
+    }
+
+    @Test
+    void interruptWithNothingPendingShouldBeRejected() {
+        String gameId = gameService.createGame("Donovan").getGameId();
+        GameSnapshot joined = gameService.joinGame(gameId, "Guest");
+
+        assertThrows(IllegalStateException.class, () -> gameService.resolveInterrupt(gameId, false));
+        assertSame(joined, gameService.getGame(gameId));
+    }
+
+    private long playMoves(String gameId, int moves) {
+        GameSnapshot state = gameService.getGame(gameId);
+        for (int i = 0; i < moves; i++) {
+            String player = state.getCurrentPlayer().getName();
+            if ("WAITING_FOR_DISCARD".equals(state.getStatus())) state = gameService.discardCard(gameId, player, 0);
+            else if ("DRAW".equals(state.getTurnPhase())) state = gameService.drawCard(gameId, player);
+            else state = gameService.skipTurn(gameId, player);
+        }
+        return state.getVersion();
+    }
+}